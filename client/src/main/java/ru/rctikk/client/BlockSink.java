@@ -0,0 +1,14 @@
+package ru.rctikk.client;
+
+import java.io.IOException;
+
+/**
+ * Приемник готовых блоков результата распределенного умножения.
+ * Каждый блок записывается ровно один раз; разные блоки могут приходить из разных потоков.
+ */
+public interface BlockSink {
+    /**
+     * Запись блока rows x cols (row-major) с левым верхним углом в (rowStart, colStart)
+     */
+    void writeBlock(int rowStart, int colStart, int rows, int cols, double[] block) throws IOException;
+}
@@ -0,0 +1,14 @@
+package ru.rctikk.client;
+
+import java.io.IOException;
+
+/**
+ * Источник блоков матрицы для распределенного умножения.
+ * Реализации должны допускать одновременное чтение из нескольких потоков.
+ */
+public interface BlockSource {
+    /**
+     * Чтение блока [rowStart, rowEnd) x [colStart, colEnd) в построчном (row-major) порядке
+     */
+    double[] readBlock(int rowStart, int rowEnd, int colStart, int colEnd) throws IOException;
+}
@@ -0,0 +1,299 @@
+package ru.rctikk.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import ru.rctikk.server.dto.Tensor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Координатор распределенного матричного умножения.
+ * Читает пары блоков A и B из источников, раздает их серверам и суммирует
+ * частичные произведения; готовый блок результата сразу уходит в приемник,
+ * поэтому в памяти координатора одновременно находятся только блоки в работе.
+ */
+public class DistributedMatmul {
+    /**
+     * Верхняя граница одновременных запросов к одному узлу; иначе их число равно числу его процессоров
+     */
+    public static final int MAX_TASKS_PER_NODE = 4;
+
+    /**
+     * Число одновременных запросов, если сервер не сообщил available_processors
+     */
+    private static final int DEFAULT_TASKS_PER_NODE = 2;
+
+    /**
+     * Память узла по умолчанию, если сервер не сообщил max_memory
+     */
+    private static final long DEFAULT_NODE_MEMORY = 256L * 1024 * 1024;
+
+    /**
+     * Доля памяти координатора, отводимая под блоки в работе
+     */
+    private static final double COORDINATOR_MEMORY_SHARE = 0.5;
+
+    private final List<TensorClient> nodes;
+
+    /**
+     * Число одновременных задач по узлам, рассчитанное последним вызовом plan(); до него - по умолчанию
+     */
+    private volatile int[] nodeTasks;
+
+    public DistributedMatmul(List<String> nodeUrls) {
+        this(nodeUrls, TensorClient.DEFAULT_REQUEST_TIMEOUT);
+    }
+
+    /**
+     * @param requestTimeout таймаут ответа узла на одну задачу; зависший узел прерывает умножение с ошибкой
+     */
+    public DistributedMatmul(List<String> nodeUrls, Duration requestTimeout) {
+        if (nodeUrls == null || nodeUrls.isEmpty()) {
+            throw new IllegalArgumentException("At least one node is required");
+        }
+
+        this.nodes = new ArrayList<>();
+        for (String url : nodeUrls) {
+            nodes.add(new TensorClient(url, requestTimeout));
+        }
+    }
+
+    /**
+     * Планирование блоков по числу узлов и памяти: самому слабому узлу и координатору,
+     * который держит блоки всех задач в работе
+     */
+    public MatmulPlan plan(int rows, int common, int cols) throws Exception {
+        List<JsonNode> infos = new ArrayList<>();
+        int[] tasks = new int[nodes.size()];
+        int workers = 0;
+        for (int i = 0; i < nodes.size(); i++) {
+            JsonNode info = nodes.get(i).getServerInfo();
+            infos.add(info);
+            tasks[i] = tasksPerNode(info);
+            workers += tasks[i];
+        }
+        nodeTasks = tasks;
+
+        long taskMemory = (long) (Runtime.getRuntime().maxMemory() * COORDINATOR_MEMORY_SHARE) / workers;
+        for (JsonNode info : infos) {
+            long nodeMemory = info.path("max_memory").asLong(DEFAULT_NODE_MEMORY);
+            taskMemory = Math.min(taskMemory, nodeMemory / tasksPerNode(info));
+        }
+        return MatmulPlan.plan(rows, common, cols, workers, taskMemory);
+    }
+
+    /**
+     * Число одновременных задач для узла по числу его процессоров
+     */
+    static int tasksPerNode(JsonNode info) {
+        int processors = info.path("available_processors").asInt(DEFAULT_TASKS_PER_NODE);
+        return Math.max(1, Math.min(MAX_TASKS_PER_NODE, processors));
+    }
+
+    /**
+     * Матричное умножение тензоров в памяти с автоматическим планированием блоков
+     */
+    public Tensor multiply(Tensor a, Tensor b) throws Exception {
+        checkShapes(a, b);
+        return multiply(a, b, plan(a.getShape()[0], a.getShape()[1], b.getShape()[1]));
+    }
+
+    /**
+     * Матричное умножение тензоров в памяти по заданному плану
+     */
+    public Tensor multiply(Tensor a, Tensor b, MatmulPlan plan) throws Exception {
+        checkShapes(a, b);
+
+        int rows = a.getShape()[0];
+        int cols = b.getShape()[1];
+        if (plan.getRows() != rows || plan.getCommon() != a.getShape()[1] || plan.getCols() != cols) {
+            throw new IllegalArgumentException("Plan " + plan + " doesn't match tensors " +
+                    rows + "x" + a.getShape()[1] + " * " + b.getShape()[0] + "x" + cols);
+        }
+        long size = (long) rows * cols;
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Result " + rows + "x" + cols +
+                    " doesn't fit in a Tensor, multiply into a BlockSink such as MatrixFile");
+        }
+
+        double[] result = new double[(int) size];
+        multiply(MatrixBlocks.source(a), MatrixBlocks.source(b),
+                (rowStart, colStart, tileRows, tileCols, tile) ->
+                        MatrixBlocks.paste(result, cols, rowStart, colStart, tileRows, tileCols, tile),
+                plan);
+        return new Tensor(result, rows, cols);
+    }
+
+    /**
+     * Потоковое матричное умножение: блоки A и B читаются из источников по мере надобности,
+     * каждый блок результата записывается в приемник, как только получены все его слагаемые.
+     * Параллелизм по узлам берется из последнего plan(), повторно /info не запрашивается.
+     */
+    public void multiply(BlockSource a, BlockSource b, BlockSink c, MatmulPlan plan) throws Exception {
+        int[] tasks = nodeTasks;
+        int workerCount = 0;
+        for (int n = 0; n < nodes.size(); n++) {
+            workerCount += tasks != null ? tasks[n] : DEFAULT_TASKS_PER_NODE;
+        }
+
+        // Чтение блоков и запись результата блокируют, поэтому идут не в потоках HttpClient
+        ExecutorService io = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "matmul-io");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            Multiplication multiplication = new Multiplication(a, b, c, plan, io);
+            List<CompletableFuture<Void>> workers = new ArrayList<>();
+            for (int n = 0; n < nodes.size(); n++) {
+                int nodeWorkers = tasks != null ? tasks[n] : DEFAULT_TASKS_PER_NODE;
+                for (int i = 0; i < nodeWorkers; i++) {
+                    workers.add(multiplication.runWorker(nodes.get(n)));
+                }
+            }
+
+            CompletableFuture.allOf(workers.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        } finally {
+            io.shutdown();
+        }
+    }
+
+    private static void checkShapes(Tensor a, Tensor b) {
+        if (a.getDimensions() != 2 || b.getDimensions() != 2) {
+            throw new IllegalArgumentException("Matrix multiplication requires 2D tensors");
+        }
+        if (a.getShape()[1] != b.getShape()[0]) {
+            throw new IllegalArgumentException("Matrix dimensions don't match for multiplication");
+        }
+    }
+
+    /**
+     * Состояние одного умножения. Задачи нумеруются лениво: номер задачи = блок результата * kBlocks + k,
+     * так что слагаемые одного блока результата идут подряд и блок быстро освобождается.
+     */
+    private static final class Multiplication {
+        private final BlockSource a;
+        private final BlockSource b;
+        private final BlockSink c;
+        private final MatmulPlan plan;
+        private final Executor io;
+
+        private final long colTiles;
+        private final long commonTiles;
+        private final long taskCount;
+
+        private final AtomicLong nextTask = new AtomicLong();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final Map<Long, Tile> tiles = new ConcurrentHashMap<>();
+
+        Multiplication(BlockSource a, BlockSource b, BlockSink c, MatmulPlan plan, Executor io) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.plan = plan;
+            this.io = io;
+            this.colTiles = MatmulPlan.blocks(plan.getCols(), plan.getColBlock());
+            this.commonTiles = MatmulPlan.blocks(plan.getCommon(), plan.getCommonBlock());
+            this.taskCount = plan.getTaskCount();
+        }
+
+        /**
+         * Цепочка задач одного канала к узлу: берет следующую задачу, пока они не кончатся
+         * или одна из задач не завершится ошибкой
+         */
+        CompletableFuture<Void> runWorker(TensorClient node) {
+            long task = nextTask.getAndIncrement();
+            if (task >= taskCount || failure.get() != null) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            long tileIndex = task / commonTiles;
+            int rowStart = Math.toIntExact(tileIndex / colTiles * plan.getRowBlock());
+            int colStart = Math.toIntExact(tileIndex % colTiles * plan.getColBlock());
+            int commonStart = Math.toIntExact(task % commonTiles * plan.getCommonBlock());
+            int rowEnd = (int) Math.min((long) rowStart + plan.getRowBlock(), plan.getRows());
+            int colEnd = (int) Math.min((long) colStart + plan.getColBlock(), plan.getCols());
+            int commonEnd = (int) Math.min((long) commonStart + plan.getCommonBlock(), plan.getCommon());
+
+            return CompletableFuture
+                    .supplyAsync(() -> {
+                        try {
+                            return new TensorData[]{
+                                    TensorData.wrap(new int[]{rowEnd - rowStart, commonEnd - commonStart},
+                                            a.readBlock(rowStart, rowEnd, commonStart, commonEnd)),
+                                    TensorData.wrap(new int[]{commonEnd - commonStart, colEnd - colStart},
+                                            b.readBlock(commonStart, commonEnd, colStart, colEnd))};
+                        } catch (Exception e) {
+                            throw new CompletionException(e);
+                        }
+                    }, io)
+                    .thenCompose(blocks -> node.multiplyBlockAsync(blocks[0], blocks[1]))
+                    .thenAcceptAsync(partial -> accumulate(tileIndex, rowStart, colStart,
+                            rowEnd - rowStart, colEnd - colStart, partial), io)
+                    .whenComplete((ignored, error) -> {
+                        // При ошибке остальные каналы не берут новые задачи
+                        if (error != null) {
+                            failure.compareAndSet(null, error);
+                        }
+                    })
+                    .thenCompose(ignored -> runWorker(node));
+        }
+
+        /**
+         * Добавление частичного произведения; последнее слагаемое отправляет блок в приемник
+         */
+        private void accumulate(long tileIndex, int rowStart, int colStart,
+                                int tileRows, int tileCols, TensorData partial) {
+            double[] partialData = partial.dataArray();
+            if (partialData.length != tileRows * tileCols) {
+                throw new IllegalStateException("Unexpected tile size: " + partialData.length);
+            }
+
+            Tile tile = tiles.computeIfAbsent(tileIndex, index -> new Tile(tileRows * tileCols));
+            boolean complete;
+            synchronized (tile) {
+                for (int i = 0; i < partialData.length; i++) {
+                    tile.data[i] += partialData[i];
+                }
+                complete = ++tile.received == commonTiles;
+            }
+
+            if (complete) {
+                tiles.remove(tileIndex);
+                try {
+                    c.writeBlock(rowStart, colStart, tileRows, tileCols, tile.data);
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Блок результата, собираемый из частичных произведений
+     */
+    private static final class Tile {
+        final double[] data;
+        long received;
+
+        Tile(int size) {
+            this.data = new double[size];
+        }
+    }
+}
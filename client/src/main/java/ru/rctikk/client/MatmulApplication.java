@@ -0,0 +1,137 @@
+package ru.rctikk.client;
+
+import ru.rctikk.server.dto.Tensor;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Проверка распределенного matmul на нескольких локальных серверах.
+ * Аргументы - адреса узлов, размер матриц задается -Dmatmul.size.
+ * С -Dmatmul.dir матрицы хранятся в файлах этого каталога и не загружаются в память целиком,
+ * результат проверяется выборочно.
+ */
+public class MatmulApplication {
+    private static final int SAMPLES = 16;
+    private static final int FILL_CHUNK = 1 << 20;
+
+    public static void main(String[] args) throws Exception {
+        try {
+            List<String> nodeUrls = args.length > 0
+                    ? Arrays.asList(args)
+                    : List.of("http://localhost:8080", "http://localhost:8081", "http://localhost:8082");
+            int size = Integer.getInteger("matmul.size", 256);
+            String dir = System.getProperty("matmul.dir");
+
+            DistributedMatmul matmul = new DistributedMatmul(nodeUrls);
+            MatmulPlan plan = matmul.plan(size, size, size);
+            System.out.println("Nodes: " + nodeUrls);
+            System.out.println("Plan: " + plan);
+
+            if (dir != null) {
+                runOnFiles(matmul, plan, Paths.get(dir), size);
+            } else {
+                runInMemory(matmul, plan, size);
+            }
+            System.out.println("Result verified");
+
+        } catch (Exception e) {
+            System.err.println("Error in distributed matmul: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Умножение в памяти со сверкой по локальному Tensor.matmul
+     */
+    private static void runInMemory(DistributedMatmul matmul, MatmulPlan plan, int size) throws Exception {
+        // Создание матриц
+        Tensor a = Tensor.random(size, size);
+        Tensor b = Tensor.random(size, size);
+
+        // Распределенное умножение
+        long start = System.nanoTime();
+        Tensor distributed = matmul.multiply(a, b, plan);
+        long distributedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Локальное умножение для сверки
+        start = System.nanoTime();
+        Tensor local = a.matmul(b);
+        long localMillis = (System.nanoTime() - start) / 1_000_000;
+
+        double[] expected = local.getData();
+        double[] actual = distributed.getData();
+        double maxError = 0;
+        for (int i = 0; i < expected.length; i++) {
+            maxError = Math.max(maxError, Math.abs(expected[i] - actual[i]));
+        }
+
+        System.out.println("Distributed: " + distributedMillis + " ms");
+        System.out.println("Local:       " + localMillis + " ms");
+        System.out.println("Max error:   " + maxError);
+        if (maxError > 1e-9 * size) {
+            throw new IllegalStateException("Distributed result doesn't match local matmul");
+        }
+    }
+
+    /**
+     * Умножение файловых матриц с выборочной проверкой элементов результата
+     */
+    private static void runOnFiles(DistributedMatmul matmul, MatmulPlan plan, Path dir, int size) throws Exception {
+        Files.createDirectories(dir);
+        Random random = new Random();
+
+        try (MatrixFile a = MatrixFile.create(dir.resolve("a.f64"), size, size);
+             MatrixFile b = MatrixFile.create(dir.resolve("b.f64"), size, size);
+             MatrixFile c = MatrixFile.create(dir.resolve("c.f64"), size, size)) {
+
+            fillRandom(a, random);
+            fillRandom(b, random);
+
+            // Распределенное умножение
+            long start = System.nanoTime();
+            matmul.multiply(a, b, c, plan);
+            long distributedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            // Выборочная сверка: строка A на столбец B
+            double maxError = 0;
+            for (int s = 0; s < SAMPLES; s++) {
+                int i = random.nextInt(size);
+                int j = random.nextInt(size);
+                double[] row = a.readBlock(i, i + 1, 0, size);
+                double[] column = b.readBlock(0, size, j, j + 1);
+                double expected = 0;
+                for (int k = 0; k < size; k++) {
+                    expected += row[k] * column[k];
+                }
+                maxError = Math.max(maxError, Math.abs(expected - c.readBlock(i, i + 1, j, j + 1)[0]));
+            }
+
+            System.out.println("Distributed: " + distributedMillis + " ms");
+            System.out.println("Max error:   " + maxError + " (" + SAMPLES + " samples)");
+            if (maxError > 1e-9 * size) {
+                throw new IllegalStateException("Distributed result doesn't match sampled dot products");
+            }
+        }
+    }
+
+    /**
+     * Заполнение файловой матрицы случайными значениями полосами строк
+     */
+    private static void fillRandom(MatrixFile matrix, Random random) throws Exception {
+        int rowsPerChunk = Math.max(1, FILL_CHUNK / matrix.getCols());
+        for (int row = 0; row < matrix.getRows(); row += rowsPerChunk) {
+            int rows = Math.min(rowsPerChunk, matrix.getRows() - row);
+            double[] chunk = new double[rows * matrix.getCols()];
+            for (int i = 0; i < chunk.length; i++) {
+                chunk[i] = random.nextDouble();
+            }
+            matrix.writeBlock(row, 0, rows, matrix.getCols(), chunk);
+        }
+    }
+}
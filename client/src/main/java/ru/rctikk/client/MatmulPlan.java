@@ -0,0 +1,113 @@
+package ru.rctikk.client;
+
+/**
+ * План разбиения матричного умножения на блоки для распределенного вычисления
+ */
+public class MatmulPlan {
+    /**
+     * Во сколько раз память одной задачи превышает 8 байт на элемент блока.
+     * Худший случай - блоки A и B на координаторе: массив (8 байт), JSON-текст числа с запятой
+     * (до 25 байт) и его копия при writeValueAsBytes (еще 25) - 58 байт, округлено до 64.
+     * Блок C: массив ответа, разобранный из потока, и сумма частичных произведений - 16 байт.
+     */
+    static final int MEMORY_OVERHEAD = 8;
+
+    /**
+     * Максимальная сторона блока, чтобы JSON одного запроса оставался умеренным
+     */
+    static final int MAX_BLOCK = 1024;
+
+    private final int rows;
+    private final int common;
+    private final int cols;
+    private final int rowBlock;
+    private final int commonBlock;
+    private final int colBlock;
+
+    public MatmulPlan(int rows, int common, int cols, int rowBlock, int commonBlock, int colBlock) {
+        if (rows <= 0 || common <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Matrix dimensions must be positive");
+        }
+        if (rowBlock <= 0 || commonBlock <= 0 || colBlock <= 0) {
+            throw new IllegalArgumentException("Block sizes must be positive");
+        }
+
+        this.rows = rows;
+        this.common = common;
+        this.cols = cols;
+        this.rowBlock = Math.min(rowBlock, rows);
+        this.commonBlock = Math.min(commonBlock, common);
+        this.colBlock = Math.min(colBlock, cols);
+
+        // Каждый блок передается и хранится одним массивом
+        long maxBlock = Math.max((long) this.rowBlock * this.commonBlock,
+                Math.max((long) this.commonBlock * this.colBlock, (long) this.rowBlock * this.colBlock));
+        if (maxBlock > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Block is too large for a single array: " + maxBlock + " elements");
+        }
+    }
+
+    /**
+     * Расчет размеров блоков по числу параллельных задач и памяти на одну задачу
+     *
+     * @param rows       число строк A
+     * @param common     число столбцов A (строк B)
+     * @param cols       число столбцов B
+     * @param workers    общее число одновременных задач на всех узлах
+     * @param taskMemory память в байтах, доступная одной задаче и на узле, и на координаторе
+     */
+    public static MatmulPlan plan(int rows, int common, int cols, int workers, long taskMemory) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Number of workers must be positive");
+        }
+        if (taskMemory <= 0) {
+            throw new IllegalArgumentException("Task memory must be positive");
+        }
+
+        // Блоки A, B и C одной задачи должны поместиться в бюджет
+        long budget = taskMemory / ((long) MEMORY_OVERHEAD * Double.BYTES);
+        int tile = (int) Math.max(1, Math.min(MAX_BLOCK, (long) Math.sqrt(budget / 3.0)));
+
+        int rowBlock = Math.min(rows, tile);
+        int commonBlock = Math.min(common, tile);
+        int colBlock = Math.min(cols, tile);
+
+        // Выходных блоков должно хватить, чтобы загрузить все узлы
+        while (blocks(rows, rowBlock) * blocks(cols, colBlock) < workers &&
+                (rowBlock > 1 || colBlock > 1)) {
+            if (rowBlock >= colBlock) {
+                rowBlock = (rowBlock + 1) / 2;
+            } else {
+                colBlock = (colBlock + 1) / 2;
+            }
+        }
+
+        return new MatmulPlan(rows, common, cols, rowBlock, commonBlock, colBlock);
+    }
+
+    static long blocks(int size, int block) {
+        return ((long) size + block - 1) / block;
+    }
+
+    public int getRows() { return rows; }
+    public int getCommon() { return common; }
+    public int getCols() { return cols; }
+
+    public int getRowBlock() { return rowBlock; }
+    public int getCommonBlock() { return commonBlock; }
+    public int getColBlock() { return colBlock; }
+
+    /**
+     * Общее число задач (пар блоков A x B)
+     */
+    public long getTaskCount() {
+        return blocks(rows, rowBlock) * blocks(common, commonBlock) * blocks(cols, colBlock);
+    }
+
+    @Override
+    public String toString() {
+        return "MatmulPlan(" + rows + "x" + common + " * " + common + "x" + cols +
+                ", blocks=" + rowBlock + "x" + commonBlock + "x" + colBlock +
+                ", tasks=" + getTaskCount() + ")";
+    }
+}
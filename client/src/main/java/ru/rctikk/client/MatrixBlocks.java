@@ -0,0 +1,47 @@
+package ru.rctikk.client;
+
+import ru.rctikk.server.dto.Tensor;
+
+/**
+ * Копирование блоков между построчными (row-major) массивами матриц
+ */
+public final class MatrixBlocks {
+    private MatrixBlocks() {}
+
+    /**
+     * Источник блоков поверх двумерного тензора в памяти
+     */
+    public static BlockSource source(Tensor tensor) {
+        if (tensor.getDimensions() != 2) {
+            throw new IllegalArgumentException("Block source requires 2D tensor");
+        }
+        double[] data = tensor.getData();
+        int width = tensor.getShape()[1];
+        return (rowStart, rowEnd, colStart, colEnd) -> copy(data, width, rowStart, rowEnd, colStart, colEnd);
+    }
+
+    /**
+     * Копирование блока [rowStart, rowEnd) x [colStart, colEnd) из матрицы шириной width
+     */
+    static double[] copy(double[] data, int width,
+                         int rowStart, int rowEnd, int colStart, int colEnd) {
+        int blockCols = colEnd - colStart;
+        double[] block = new double[Math.toIntExact((long) (rowEnd - rowStart) * blockCols)];
+        for (int i = rowStart; i < rowEnd; i++) {
+            System.arraycopy(data, Math.toIntExact((long) i * width + colStart),
+                    block, (i - rowStart) * blockCols, blockCols);
+        }
+        return block;
+    }
+
+    /**
+     * Запись блока rows x cols в матрицу шириной width начиная с (rowStart, colStart)
+     */
+    static void paste(double[] data, int width,
+                      int rowStart, int colStart, int rows, int cols, double[] block) {
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(block, i * cols,
+                    data, Math.toIntExact((long) (rowStart + i) * width + colStart), cols);
+        }
+    }
+}
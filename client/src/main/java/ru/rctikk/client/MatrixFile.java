@@ -0,0 +1,141 @@
+package ru.rctikk.client;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Матрица в файле: rows x cols чисел float64 подряд по строкам (little-endian).
+ * Позволяет умножать матрицы, которые не помещаются в память координатора.
+ */
+public class MatrixFile implements BlockSource, BlockSink, AutoCloseable {
+    private final FileChannel channel;
+    private final int rows;
+    private final int cols;
+    private final boolean writable;
+
+    private MatrixFile(FileChannel channel, int rows, int cols, boolean writable) {
+        this.channel = channel;
+        this.rows = rows;
+        this.cols = cols;
+        this.writable = writable;
+    }
+
+    /**
+     * Открытие существующей матрицы только для чтения (источник блоков)
+     */
+    public static MatrixFile open(Path path, int rows, int cols) throws IOException {
+        return open(path, rows, cols, false);
+    }
+
+    /**
+     * Открытие существующей матрицы для чтения и записи
+     */
+    public static MatrixFile openReadWrite(Path path, int rows, int cols) throws IOException {
+        return open(path, rows, cols, true);
+    }
+
+    private static MatrixFile open(Path path, int rows, int cols, boolean writable) throws IOException {
+        checkDimensions(rows, cols);
+        FileChannel channel = writable
+                ? FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(path, StandardOpenOption.READ);
+        if (channel.size() != byteSize(rows, cols)) {
+            channel.close();
+            throw new IllegalArgumentException("File size doesn't match " + rows + "x" + cols + " matrix: " + path);
+        }
+        return new MatrixFile(channel, rows, cols, writable);
+    }
+
+    /**
+     * Создание (или перезапись) матрицы, заполненной нулями
+     */
+    public static MatrixFile create(Path path, int rows, int cols) throws IOException {
+        checkDimensions(rows, cols);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = byteSize(rows, cols);
+        if (size > 0) {
+            // Расширение файла записью последнего байта
+            channel.write(ByteBuffer.allocate(1), size - 1);
+        }
+        return new MatrixFile(channel, rows, cols, true);
+    }
+
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+
+    @Override
+    public double[] readBlock(int rowStart, int rowEnd, int colStart, int colEnd) throws IOException {
+        checkBlock(rowStart, rowEnd, colStart, colEnd);
+
+        int blockCols = colEnd - colStart;
+        double[] block = new double[Math.toIntExact((long) (rowEnd - rowStart) * blockCols)];
+        ByteBuffer buffer = ByteBuffer.allocate(Math.multiplyExact(blockCols, Double.BYTES))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = rowStart; i < rowEnd; i++) {
+            buffer.clear();
+            long position = offset(i, colStart);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new IOException("Unexpected end of matrix file");
+                }
+            }
+            buffer.flip();
+            buffer.asDoubleBuffer().get(block, (i - rowStart) * blockCols, blockCols);
+        }
+        return block;
+    }
+
+    @Override
+    public void writeBlock(int rowStart, int colStart, int blockRows, int blockCols, double[] block)
+            throws IOException {
+        if (!writable) {
+            throw new IOException("Matrix file is opened read-only");
+        }
+        checkBlock(rowStart, rowStart + blockRows, colStart, colStart + blockCols);
+        if (block.length != (long) blockRows * blockCols) {
+            throw new IllegalArgumentException("Block data doesn't match block size");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(Math.multiplyExact(blockCols, Double.BYTES))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < blockRows; i++) {
+            buffer.clear();
+            buffer.asDoubleBuffer().put(block, i * blockCols, blockCols);
+            long position = offset(rowStart + i, colStart);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, position + buffer.position());
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private long offset(int row, int col) {
+        return ((long) row * cols + col) * Double.BYTES;
+    }
+
+    private void checkBlock(int rowStart, int rowEnd, int colStart, int colEnd) {
+        if (rowStart < 0 || rowEnd > rows || rowStart >= rowEnd ||
+                colStart < 0 || colEnd > cols || colStart >= colEnd) {
+            throw new IndexOutOfBoundsException("Block out of matrix bounds");
+        }
+    }
+
+    private static void checkDimensions(int rows, int cols) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Dimensions must be positive");
+        }
+    }
+
+    private static long byteSize(int rows, int cols) {
+        return Math.multiplyExact((long) rows * cols, Double.BYTES);
+    }
+}
@@ -0,0 +1,172 @@
+package ru.rctikk.client;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Замер времени от запуска процесса сервера до первого успешного POST /api/tensor.
+ * Сравнивает обычный jar со сборкой профиля fast-startup (AOT + CDS) и, если он собран,
+ * с нативным образом.
+ *
+ * Параметры: -Dserver.target (по умолчанию server/target), -Dbenchmark.runs (5),
+ * -Dbenchmark.port (18080). Jar-файлы ищутся в server.target по шаблону server-*.jar
+ * и fast-startup/*-fast.jar, явно их можно задать через -Dbenchmark.jar и -Dbenchmark.fastJar.
+ */
+public class StartupBenchmark {
+    private static final long STARTUP_TIMEOUT_MILLIS = 60_000;
+    private static final long POLL_INTERVAL_MILLIS = 10;
+
+    public static void main(String[] args) throws Exception {
+        try {
+            File target = new File(System.getProperty("server.target", "server/target"));
+            int runs = Integer.getInteger("benchmark.runs", 5);
+            int port = Integer.getInteger("benchmark.port", 18080);
+            String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+            if (runs <= 0) {
+                throw new IllegalArgumentException("benchmark.runs must be positive: " + runs);
+            }
+
+            File regularJar = findJar("benchmark.jar", target,
+                    name -> name.startsWith("server-") && name.endsWith(".jar") && !name.endsWith("-fast.jar"));
+            File fastJar = findJar("benchmark.fastJar", new File(target, "fast-startup"),
+                    name -> name.endsWith("-fast.jar"));
+            File nativeImage = new File(target, "server");
+
+            if (regularJar == null) {
+                throw new IllegalStateException("Regular jar not found in " + target + ", set -Dbenchmark.jar");
+            }
+            report("regular jar", runs, port, regularJar.getParentFile(),
+                    List.of(java, "-jar", regularJar.getName()));
+
+            // Архив CDS привязан к пути jar, поэтому запуск из каталога, где шла тренировка;
+            // -Xshare:on не дает архиву другой JDK молча отключиться
+            if (fastJar != null && new File(fastJar.getParentFile(), "server.jsa").isFile()) {
+                report("AOT + CDS", runs, port, fastJar.getParentFile(),
+                        List.of(java, "-Xshare:on", "-XX:SharedArchiveFile=server.jsa", "-Dspring.aot.enabled=true",
+                                "-jar", fastJar.getName()));
+            } else {
+                System.out.println("AOT + CDS: skipped, build with -Pfast-startup");
+            }
+
+            if (nativeImage.isFile() && nativeImage.canExecute()) {
+                report("native image", runs, port, target,
+                        List.of(nativeImage.getAbsolutePath()));
+            } else {
+                System.out.println("native image: skipped, build with -Pnative");
+            }
+
+        } catch (Exception e) {
+            System.err.println("Benchmark failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Поиск jar: из свойства или единственный файл в каталоге, подходящий под шаблон
+     */
+    private static File findJar(String property, File dir, Predicate<String> matches) {
+        String path = System.getProperty(property);
+        if (path != null) {
+            File jar = new File(path).getAbsoluteFile();
+            if (!jar.isFile()) {
+                throw new IllegalStateException("Jar from -D" + property + " not found: " + jar);
+            }
+            return jar;
+        }
+
+        File[] candidates = dir.listFiles(file -> file.isFile() && matches.test(file.getName()));
+        if (candidates == null || candidates.length == 0) {
+            return null;
+        }
+        if (candidates.length > 1) {
+            throw new IllegalStateException("Several jars in " + dir + ": " + Arrays.toString(candidates) +
+                    ", set -D" + property);
+        }
+        return candidates[0].getAbsoluteFile();
+    }
+
+    /**
+     * Несколько запусков одного варианта и вывод min/median/max
+     */
+    private static void report(String label, int runs, int port, File workingDir,
+                               List<String> command) throws Exception {
+        long[] timings = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            timings[i] = timeToFirstPost(port, workingDir, command);
+        }
+        Arrays.sort(timings);
+        System.out.printf("%-14s min=%d ms, median=%d ms, max=%d ms (%d runs)%n",
+                label + ":", timings[0], timings[runs / 2], timings[runs - 1], runs);
+    }
+
+    /**
+     * Проверка, что порт свободен: иначе первый POST ответит чужой процесс
+     */
+    private static void checkPortFree(int port) {
+        try (ServerSocket socket = new ServerSocket()) {
+            socket.bind(new InetSocketAddress("localhost", port));
+        } catch (IOException e) {
+            throw new IllegalStateException("Port " + port + " is already in use, set -Dbenchmark.port", e);
+        }
+    }
+
+    /**
+     * Запуск сервера и опрос POST /api/tensor до первого ответа 200
+     */
+    private static long timeToFirstPost(int port, File workingDir, List<String> command) throws Exception {
+        checkPortFree(port);
+
+        List<String> fullCommand = new ArrayList<>(command);
+        fullCommand.add("--server.port=" + port);
+
+        TensorClient client = new TensorClient("http://localhost:" + port);
+        TensorData tensorData = new TensorData(new int[]{2, 2}, new double[]{1, 2, 3, 4});
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(fullCommand)
+                .directory(workingDir)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+
+        try {
+            while (true) {
+                try {
+                    client.sendTensor(tensorData);
+                    long elapsed = (System.nanoTime() - start) / 1_000_000;
+                    // Ответил именно запущенный сервер, а не посторонний процесс на том же порту
+                    if (!process.isAlive()) {
+                        throw new IllegalStateException("Server exited with code " + process.exitValue() +
+                                " although port " + port + " answered");
+                    }
+                    return elapsed;
+                } catch (IllegalStateException e) {
+                    throw e;
+                } catch (Exception e) {
+                    // Сервер еще не готов
+                }
+
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Server exited with code " + process.exitValue());
+                }
+                if ((System.nanoTime() - start) / 1_000_000 > STARTUP_TIMEOUT_MILLIS) {
+                    throw new IllegalStateException("Server didn't start in " + STARTUP_TIMEOUT_MILLIS + " ms");
+                }
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            }
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+}
@@ -1,19 +1,37 @@
 package ru.rctikk.client;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 public class TensorClient {
+    /**
+     * Таймаут ответа по умолчанию: умножение крупного блока на медленном узле занимает секунды
+     */
+    public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofMinutes(2);
+
     private final HttpClient httpClient;
     private final ObjectMapper objectMapper;
     private final String baseUrl;
+    private final Duration requestTimeout;
 
     public TensorClient(String baseUrl) {
+        this(baseUrl, DEFAULT_REQUEST_TIMEOUT);
+    }
+
+    public TensorClient(String baseUrl, Duration requestTimeout) {
         this.baseUrl = baseUrl;
+        this.requestTimeout = requestTimeout;
         this.httpClient = HttpClient.newBuilder()
                 .connectTimeout(Duration.ofSeconds(10))
                 .build();
@@ -28,6 +46,7 @@ public class TensorClient {
 
         HttpRequest request = HttpRequest.newBuilder()
                 .uri(URI.create(baseUrl + "/api/tensor"))
+                .timeout(requestTimeout)
                 .header("Content-Type", "application/json")
                 .POST(HttpRequest.BodyPublishers.ofString(jsonPayload))
                 .build();
@@ -55,6 +74,7 @@ public class TensorClient {
 
         HttpRequest request = HttpRequest.newBuilder()
                 .uri(URI.create(baseUrl + "/api/tensor/with-metadata"))
+                .timeout(requestTimeout)
                 .header("Content-Type", "application/json")
                 .POST(HttpRequest.BodyPublishers.ofString(jsonPayload))
                 .build();
@@ -64,4 +84,76 @@ public class TensorClient {
 
         return response.body();
     }
-}
\ No newline at end of file
+
+    /**
+     * Получение информации о сервере
+     */
+    public JsonNode getServerInfo() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/tensor/info"))
+                .timeout(requestTimeout)
+                .GET()
+                .build();
+
+        HttpResponse<String> response = httpClient.send(request,
+                HttpResponse.BodyHandlers.ofString());
+
+        if (response.statusCode() == 200) {
+            return objectMapper.readTree(response.body());
+        } else {
+            throw new RuntimeException("Failed to get server info: " + response.statusCode() +
+                    " - " + response.body());
+        }
+    }
+
+    /**
+     * Асинхронное умножение пары блоков матриц на сервере.
+     * Запрос сериализуется сразу в байты, ответ разбирается из потока без промежуточных строк.
+     */
+    public CompletableFuture<TensorData> multiplyBlockAsync(TensorData a, TensorData b) {
+        var payload = new java.util.HashMap<String, Object>();
+        payload.put("a", a);
+        payload.put("b", b);
+
+        byte[] jsonPayload;
+        try {
+            jsonPayload = objectMapper.writeValueAsBytes(payload);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/tensor/matmul-block"))
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(jsonPayload))
+                .build();
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+                .thenApply(response -> {
+                    try (InputStream body = response.body()) {
+                        if (response.statusCode() != 200) {
+                            throw new RuntimeException("Failed to multiply blocks on " + baseUrl + ": " +
+                                    response.statusCode() + " - " +
+                                    new String(body.readAllBytes(), StandardCharsets.UTF_8));
+                        }
+                        BlockResponse blockResponse = objectMapper.readValue(body, BlockResponse.class);
+                        if (blockResponse.result == null) {
+                            throw new IllegalStateException("No result in response");
+                        }
+                        return blockResponse.result;
+                    } catch (IOException | IllegalStateException e) {
+                        throw new RuntimeException("Invalid block response from " + baseUrl, e);
+                    }
+                });
+    }
+
+    /**
+     * Ответ /api/tensor/matmul-block
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class BlockResponse {
+        @JsonProperty("result")
+        TensorData result;
+    }
+}
@@ -1,8 +1,16 @@
 package ru.rctikk.client;
 
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.Arrays;
 
+// Jackson работает напрямую с полями, минуя копирующие геттеры и сеттеры
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY,
+        getterVisibility = JsonAutoDetect.Visibility.NONE,
+        isGetterVisibility = JsonAutoDetect.Visibility.NONE,
+        setterVisibility = JsonAutoDetect.Visibility.NONE)
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class TensorData {
     @JsonProperty("shape")
     private int[] shape;
@@ -26,6 +34,18 @@ public class TensorData {
         this.name = "tensor";
     }
 
+    /**
+     * Обертка над массивами без копирования, для блоков, которые больше нигде не используются
+     */
+    static TensorData wrap(int[] shape, double[] data) {
+        TensorData tensorData = new TensorData();
+        tensorData.shape = shape;
+        tensorData.data = data;
+        tensorData.dtype = "float64";
+        tensorData.name = "block";
+        return tensorData;
+    }
+
     // Геттеры и сеттеры
     public int[] getShape() { return Arrays.copyOf(shape, shape.length); }
     public void setShape(int[] shape) { this.shape = Arrays.copyOf(shape, shape.length); }
@@ -38,4 +58,9 @@ public class TensorData {
 
     public String getName() { return name; }
     public void setName(String name) { this.name = name; }
-}
\ No newline at end of file
+
+    /**
+     * Данные без копирования
+     */
+    double[] dataArray() { return data; }
+}
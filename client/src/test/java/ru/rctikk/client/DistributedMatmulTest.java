@@ -0,0 +1,223 @@
+package ru.rctikk.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import junit.framework.TestCase;
+import ru.rctikk.server.dto.Tensor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Тесты координатора на локальных HTTP-узлах с протоколом сервера
+ */
+public class DistributedMatmulTest extends TestCase {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<HttpServer> servers = new ArrayList<>();
+    private final List<ExecutorService> executors = new ArrayList<>();
+    private final AtomicInteger infoRequests = new AtomicInteger();
+
+    @Override
+    protected void tearDown() {
+        for (HttpServer server : servers) {
+            server.stop(0);
+        }
+        for (ExecutorService executor : executors) {
+            executor.shutdownNow();
+        }
+    }
+
+    public void testRemainderBlocksMatchLocalMatmul() throws Exception {
+        Tensor a = Tensor.random(100, 70);
+        Tensor b = Tensor.random(70, 90);
+        DistributedMatmul matmul = new DistributedMatmul(startNodes(3, -1));
+
+        Tensor result = matmul.multiply(a, b, new MatmulPlan(100, 70, 90, 37, 23, 41));
+
+        assertClose(a.matmul(b), result);
+    }
+
+    public void testAutomaticPlanMatchesLocalMatmul() throws Exception {
+        Tensor a = Tensor.random(5, 40);
+        Tensor b = Tensor.random(40, 3);
+        DistributedMatmul matmul = new DistributedMatmul(startNodes(2, -1));
+
+        assertClose(a.matmul(b), matmul.multiply(a, b));
+    }
+
+    public void testStreamsResultIntoMatrixFile() throws Exception {
+        Tensor a = Tensor.random(30, 20);
+        Tensor b = Tensor.random(20, 25);
+        DistributedMatmul matmul = new DistributedMatmul(startNodes(2, -1));
+
+        Path path = Files.createTempFile("product", ".f64");
+        try (MatrixFile c = MatrixFile.create(path, 30, 25)) {
+            matmul.multiply(MatrixBlocks.source(a), MatrixBlocks.source(b), c, new MatmulPlan(30, 20, 25, 7, 6, 8));
+
+            assertClose(a.matmul(b), new Tensor(c.readBlock(0, 30, 0, 25), 30, 25));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    public void testBlockIoRunsOnDedicatedThreads() throws Exception {
+        Tensor a = Tensor.random(16, 16);
+        Tensor b = Tensor.random(16, 16);
+        DistributedMatmul matmul = new DistributedMatmul(startNodes(2, -1));
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        BlockSource source = MatrixBlocks.source(a);
+
+        matmul.multiply(
+                (rowStart, rowEnd, colStart, colEnd) -> {
+                    threads.add(Thread.currentThread().getName());
+                    return source.readBlock(rowStart, rowEnd, colStart, colEnd);
+                },
+                MatrixBlocks.source(b),
+                (rowStart, colStart, rows, cols, block) -> threads.add(Thread.currentThread().getName()),
+                new MatmulPlan(16, 16, 16, 4, 4, 4));
+
+        assertEquals(Set.of("matmul-io"), threads);
+    }
+
+    public void testNodeErrorFailsMultiplication() throws Exception {
+        Tensor a = Tensor.random(20, 20);
+        Tensor b = Tensor.random(20, 20);
+        // Второй узел отвечает ошибкой на третий запрос
+        List<String> urls = new ArrayList<>(startNodes(1, -1));
+        urls.addAll(startNodes(1, 3));
+        DistributedMatmul matmul = new DistributedMatmul(urls);
+
+        try {
+            matmul.multiply(a, b, new MatmulPlan(20, 20, 20, 5, 5, 5));
+            fail("Expected node failure");
+        } catch (RuntimeException e) {
+            assertTrue(e.getMessage().contains("500"));
+        }
+    }
+
+    public void testRejectsPlanNotMatchingTensors() throws Exception {
+        DistributedMatmul matmul = new DistributedMatmul(List.of("http://localhost:1"));
+        Tensor a = Tensor.random(10, 8);
+        Tensor b = Tensor.random(8, 6);
+
+        for (MatmulPlan plan : List.of(
+                new MatmulPlan(9, 8, 6, 4, 4, 4),
+                new MatmulPlan(10, 7, 6, 4, 4, 4),
+                new MatmulPlan(10, 8, 7, 4, 4, 4))) {
+            try {
+                matmul.multiply(a, b, plan);
+                fail("Expected plan check for " + plan);
+            } catch (IllegalArgumentException e) {
+                assertTrue(e.getMessage().contains("doesn't match"));
+            }
+        }
+    }
+
+    public void testRejectsResultTooLargeForTensor() throws Exception {
+        DistributedMatmul matmul = new DistributedMatmul(List.of("http://localhost:1"));
+        Tensor a = new Tensor(50_000, 1);
+        Tensor b = new Tensor(1, 50_000);
+
+        try {
+            matmul.multiply(a, b, new MatmulPlan(50_000, 1, 50_000, 1024, 1, 1024));
+            fail("Expected size check");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("BlockSink"));
+        }
+    }
+
+    public void testQueriesNodeInfoOnlyWhenPlanning() throws Exception {
+        Tensor a = Tensor.random(12, 12);
+        Tensor b = Tensor.random(12, 12);
+        DistributedMatmul matmul = new DistributedMatmul(startNodes(2, -1));
+
+        matmul.multiply(a, b, new MatmulPlan(12, 12, 12, 4, 4, 4));
+        assertEquals(0, infoRequests.get());
+
+        matmul.multiply(a, b);
+        assertEquals(2, infoRequests.get());
+    }
+
+    public void testTasksPerNodeFollowsProcessors() throws Exception {
+        assertEquals(1, DistributedMatmul.tasksPerNode(objectMapper.readTree("{\"available_processors\":1}")));
+        assertEquals(3, DistributedMatmul.tasksPerNode(objectMapper.readTree("{\"available_processors\":3}")));
+        assertEquals(DistributedMatmul.MAX_TASKS_PER_NODE,
+                DistributedMatmul.tasksPerNode(objectMapper.readTree("{\"available_processors\":64}")));
+        assertEquals(2, DistributedMatmul.tasksPerNode(objectMapper.readTree("{}")));
+    }
+
+    /**
+     * Запуск узлов, умножающих блоки как сервер
+     *
+     * @param failOnRequest номер запроса, на который узел отвечает 500, или -1
+     */
+    private List<String> startNodes(int count, int failOnRequest) throws IOException {
+        List<String> urls = new ArrayList<>();
+        for (int n = 0; n < count; n++) {
+            AtomicInteger requests = new AtomicInteger();
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/api/tensor/info", exchange -> {
+                infoRequests.incrementAndGet();
+                respond(exchange, 200, "{\"status\":\"running\",\"max_memory\":268435456,\"available_processors\":2}");
+            });
+            server.createContext("/api/tensor/matmul-block", exchange -> {
+                if (requests.incrementAndGet() == failOnRequest) {
+                    respond(exchange, 500, "{\"status\":\"error\",\"message\":\"Node failure\"}");
+                    return;
+                }
+                JsonNode payload = objectMapper.readTree(exchange.getRequestBody());
+                Tensor product = toTensor(payload.get("a")).matmul(toTensor(payload.get("b")));
+                String result = objectMapper.writeValueAsString(Map.of(
+                        "status", "success",
+                        "result", Map.of("shape", product.getShape(), "data", product.getData(),
+                                "dtype", "float64", "name", "tile")));
+                respond(exchange, 200, result);
+            });
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            executors.add(executor);
+            server.setExecutor(executor);
+            server.start();
+            servers.add(server);
+            urls.add("http://localhost:" + server.getAddress().getPort());
+        }
+        return urls;
+    }
+
+    private Tensor toTensor(JsonNode node) throws IOException {
+        return new Tensor(objectMapper.treeToValue(node.get("data"), double[].class),
+                objectMapper.treeToValue(node.get("shape"), int[].class));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void assertClose(Tensor expected, Tensor actual) {
+        assertTrue(Arrays.equals(expected.getShape(), actual.getShape()));
+        double[] e = expected.getData();
+        double[] a = actual.getData();
+        for (int i = 0; i < e.length; i++) {
+            assertEquals(e[i], a[i], 1e-9);
+        }
+    }
+}
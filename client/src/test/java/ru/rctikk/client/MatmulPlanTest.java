@@ -0,0 +1,95 @@
+package ru.rctikk.client;
+
+import junit.framework.TestCase;
+
+/**
+ * Тесты планирования блоков
+ */
+public class MatmulPlanTest extends TestCase {
+    private static final long LARGE_MEMORY = 1L << 40;
+
+    public void testRemainderBlocksAreCounted() {
+        MatmulPlan plan = new MatmulPlan(100, 70, 90, 37, 23, 41);
+
+        // 3 x 4 x 3 блока, последние в каждом измерении неполные
+        assertEquals(36, plan.getTaskCount());
+    }
+
+    public void testBlocksAreClampedToMatrix() {
+        MatmulPlan plan = new MatmulPlan(10, 20, 30, 100, 100, 100);
+
+        assertEquals(10, plan.getRowBlock());
+        assertEquals(20, plan.getCommonBlock());
+        assertEquals(30, plan.getColBlock());
+        assertEquals(1, plan.getTaskCount());
+    }
+
+    public void testSplitsOutputTilesToLoadAllWorkers() {
+        MatmulPlan plan = MatmulPlan.plan(64, 64, 64, 6, LARGE_MEMORY);
+
+        long outputTiles = MatmulPlan.blocks(64, plan.getRowBlock()) * MatmulPlan.blocks(64, plan.getColBlock());
+        assertTrue(outputTiles >= 6);
+        assertEquals(64, plan.getCommonBlock());
+    }
+
+    public void testFewerOutputCellsThanWorkers() {
+        MatmulPlan plan = MatmulPlan.plan(1, 5, 1, 8, LARGE_MEMORY);
+
+        assertEquals(1, plan.getRowBlock());
+        assertEquals(1, plan.getColBlock());
+        assertEquals(5, plan.getCommonBlock());
+        assertEquals(1, plan.getTaskCount());
+    }
+
+    public void testTileSizeIsBoundByTaskMemory() {
+        // Бюджет 3 * 100 * 100 чисел с учетом накладных расходов
+        long taskMemory = 3L * 100 * 100 * Double.BYTES * MatmulPlan.MEMORY_OVERHEAD;
+        MatmulPlan plan = MatmulPlan.plan(1000, 1000, 1000, 1, taskMemory);
+
+        assertEquals(100, plan.getRowBlock());
+        assertEquals(100, plan.getCommonBlock());
+        assertEquals(100, plan.getColBlock());
+    }
+
+    public void testTinyMemoryFallsBackToSingleElements() {
+        MatmulPlan plan = MatmulPlan.plan(3, 3, 3, 1, 1);
+
+        assertEquals(1, plan.getRowBlock());
+        assertEquals(27, plan.getTaskCount());
+    }
+
+    public void testTileSizeIsCappedByMaxBlock() {
+        MatmulPlan plan = MatmulPlan.plan(5000, 5000, 5000, 1, LARGE_MEMORY);
+
+        assertEquals(MatmulPlan.MAX_BLOCK, plan.getRowBlock());
+        assertEquals(MatmulPlan.MAX_BLOCK, plan.getCommonBlock());
+        assertEquals(MatmulPlan.MAX_BLOCK, plan.getColBlock());
+    }
+
+    public void testBlockCountDoesNotOverflow() {
+        assertEquals(Integer.MAX_VALUE, MatmulPlan.blocks(Integer.MAX_VALUE, 1));
+        assertEquals(2, MatmulPlan.blocks(Integer.MAX_VALUE, Integer.MAX_VALUE / 2 + 1));
+    }
+
+    public void testRejectsBlockThatDoesNotFitInArray() {
+        try {
+            new MatmulPlan(100_000, 100_000, 1, 100_000, 100_000, 1);
+            fail("Expected block size check");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("too large"));
+        }
+    }
+
+    public void testRejectsNonPositiveArguments() {
+        try {
+            MatmulPlan.plan(10, 10, 10, 0, LARGE_MEMORY);
+            fail("Expected workers check");
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            new MatmulPlan(10, 10, 10, 0, 1, 1);
+            fail("Expected block size check");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package ru.rctikk.client;
+
+import junit.framework.TestCase;
+import ru.rctikk.server.dto.Tensor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Тесты копирования блоков в памяти и в файловой матрице
+ */
+public class MatrixBlocksTest extends TestCase {
+    /**
+     * Матрица 3x4 со значениями 10 * строка + столбец
+     */
+    private static final double[] MATRIX = {
+            0, 1, 2, 3,
+            10, 11, 12, 13,
+            20, 21, 22, 23
+    };
+
+    public void testCopyInnerBlock() {
+        double[] block = MatrixBlocks.copy(MATRIX, 4, 1, 3, 1, 3);
+
+        assertTrue(Arrays.equals(new double[]{11, 12, 21, 22}, block));
+    }
+
+    public void testCopyRemainderBlockAtEdge() {
+        double[] block = MatrixBlocks.copy(MATRIX, 4, 2, 3, 3, 4);
+
+        assertTrue(Arrays.equals(new double[]{23}, block));
+    }
+
+    public void testPasteBlock() {
+        double[] data = new double[12];
+        MatrixBlocks.paste(data, 4, 1, 2, 2, 2, new double[]{1, 2, 3, 4});
+
+        assertTrue(Arrays.equals(new double[]{
+                0, 0, 0, 0,
+                0, 0, 1, 2,
+                0, 0, 3, 4}, data));
+    }
+
+    public void testTensorSource() throws Exception {
+        BlockSource source = MatrixBlocks.source(new Tensor(MATRIX, 3, 4));
+
+        assertTrue(Arrays.equals(new double[]{2, 3, 12, 13}, source.readBlock(0, 2, 2, 4)));
+    }
+
+    public void testMatrixFileRoundTrip() throws Exception {
+        Path path = Files.createTempFile("matrix", ".f64");
+        try (MatrixFile matrix = MatrixFile.create(path, 3, 4)) {
+            matrix.writeBlock(0, 0, 3, 4, MATRIX);
+            matrix.writeBlock(1, 1, 1, 2, new double[]{-1, -2});
+
+            assertTrue(Arrays.equals(new double[]{-1, -2, 13, 21, 22, 23}, matrix.readBlock(1, 3, 1, 4)));
+            assertEquals(3L * 4 * Double.BYTES, Files.size(path));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+
+        // Повторное открытие с неверной формой
+        Path other = Files.createTempFile("matrix", ".f64");
+        try {
+            MatrixFile.create(other, 2, 2).close();
+            try {
+                MatrixFile.open(other, 3, 3);
+                fail("Expected size check");
+            } catch (IllegalArgumentException expected) {
+            }
+        } finally {
+            Files.deleteIfExists(other);
+        }
+    }
+
+    public void testMatrixFileOpensReadOnlyByDefault() throws Exception {
+        Path path = Files.createTempFile("matrix", ".f64");
+        try {
+            try (MatrixFile matrix = MatrixFile.create(path, 3, 4)) {
+                matrix.writeBlock(0, 0, 3, 4, MATRIX);
+            }
+
+            try (MatrixFile matrix = MatrixFile.open(path, 3, 4)) {
+                assertTrue(Arrays.equals(new double[]{22, 23}, matrix.readBlock(2, 3, 2, 4)));
+                try {
+                    matrix.writeBlock(0, 0, 1, 1, new double[]{5});
+                    fail("Expected read-only check");
+                } catch (IOException expected) {
+                }
+            }
+
+            try (MatrixFile matrix = MatrixFile.openReadWrite(path, 3, 4)) {
+                matrix.writeBlock(0, 0, 1, 1, new double[]{5});
+                assertEquals(5.0, matrix.readBlock(0, 1, 0, 1)[0]);
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    public void testMatrixFileRejectsOutOfBoundsBlock() throws Exception {
+        Path path = Files.createTempFile("matrix", ".f64");
+        try (MatrixFile matrix = MatrixFile.create(path, 2, 2)) {
+            try {
+                matrix.readBlock(1, 3, 0, 1);
+                fail("Expected bounds check");
+            } catch (IndexOutOfBoundsException expected) {
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package ru.rctikk.client;
+
+import com.sun.net.httpserver.HttpServer;
+import junit.framework.TestCase;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Разбор ответов /api/tensor/matmul-block в TensorData
+ */
+public class TensorClientTest extends TestCase {
+    /**
+     * Ответ сервера на умножение [[1,2,3],[4,5,6]] x [[7,8],[9,10],[11,12]]
+     */
+    private static final String BLOCK_RESPONSE =
+            "{\"result\":{\"shape\":[2,2],\"data\":[58.0,64.0,139.0,154.0],\"dtype\":\"float64\",\"name\":\"tile\"}," +
+                    "\"message\":\"Block multiplied successfully\",\"status\":\"success\"}";
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    @Override
+    protected void tearDown() {
+        if (server != null) {
+            server.stop(0);
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    public void testMultiplyBlockParsesServerResponse() throws Exception {
+        TensorData tile = multiplyAgainst(200, BLOCK_RESPONSE);
+
+        assertEquals(2, tile.getShape()[0]);
+        assertEquals(2, tile.getShape()[1]);
+        assertEquals(58.0, tile.getData()[0]);
+        assertEquals(154.0, tile.getData()[3]);
+    }
+
+    public void testMultiplyBlockIgnoresUnknownFields() throws Exception {
+        TensorData tile = multiplyAgainst(200, BLOCK_RESPONSE.replace("\"name\":\"tile\"", "\"name\":\"tile\",\"valid\":true"));
+
+        assertEquals(4, tile.getData().length);
+    }
+
+    public void testMultiplyBlockFailsOnErrorStatus() throws Exception {
+        try {
+            multiplyAgainst(400, "{\"status\":\"error\",\"message\":\"Invalid matrix blocks\"}");
+            fail("Expected failure on HTTP 400");
+        } catch (RuntimeException e) {
+            assertTrue(e.getMessage().contains("400"));
+        }
+    }
+
+    public void testMultiplyBlockTimesOutOnHungNode() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        CountDownLatch release = new CountDownLatch(1);
+        server.createContext("/api/tensor/matmul-block", exchange -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.start();
+
+        TensorClient client = new TensorClient("http://localhost:" + server.getAddress().getPort(),
+                Duration.ofMillis(200));
+        TensorData block = new TensorData(new int[]{1, 1}, new double[]{1});
+        try {
+            client.multiplyBlockAsync(block, block).join();
+            fail("Expected timeout");
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof HttpTimeoutException);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private TensorData multiplyAgainst(int status, String body) throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/tensor/matmul-block", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+
+        TensorClient client = new TensorClient("http://localhost:" + server.getAddress().getPort());
+        TensorData a = new TensorData(new int[]{2, 3}, new double[]{1, 2, 3, 4, 5, 6});
+        TensorData b = new TensorData(new int[]{3, 2}, new double[]{7, 8, 9, 10, 11, 12});
+        try {
+            return client.multiplyBlockAsync(a, b).join();
+        } catch (CompletionException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+}
@@ -11,6 +11,7 @@ public class ServerApplication {
         System.out.println("API endpoints:");
         System.out.println("  POST /api/tensor - receive tensor");
         System.out.println("  POST /api/tensor/with-metadata - receive tensor with metadata");
+        System.out.println("  POST /api/tensor/matmul-block - multiply matrix blocks");
         System.out.println("  GET  /api/tensor/info - server info");
     }
 }
@@ -1,5 +1,6 @@
 package ru.rctikk.server.controller;
 
+import ru.rctikk.server.dto.MatmulBlockRequest;
 import ru.rctikk.server.dto.TensorRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -84,15 +85,78 @@ public class TensorController {
         }
     }
 
+    /**
+     * Умножение пары блоков матриц (узел распределенного matmul)
+     */
+    @PostMapping("/matmul-block")
+    public ResponseEntity<Map<String, Object>> multiplyBlock(
+            @RequestBody MatmulBlockRequest blockRequest) {
+
+        try {
+            if (!blockRequest.isValid()) {
+                Map<String, Object> errorResponse = new HashMap<>();
+                errorResponse.put("status", "error");
+                errorResponse.put("message", "Invalid matrix blocks");
+                return ResponseEntity.badRequest().body(errorResponse);
+            }
+
+            TensorRequest a = blockRequest.getA();
+            TensorRequest b = blockRequest.getB();
+            int rows = a.getShape()[0];
+            int common = a.getShape()[1];
+            int cols = b.getShape()[1];
+
+            TensorRequest result = new TensorRequest();
+            result.setShape(new int[]{rows, cols});
+            result.setData(multiply(a.getData(), b.getData(), rows, common, cols));
+            result.setDtype("float64");
+            result.setName("tile");
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("status", "success");
+            response.put("message", "Block multiplied successfully");
+            response.put("result", result);
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("status", "error");
+            errorResponse.put("message", "Failed to multiply blocks: " + e.getMessage());
+            return ResponseEntity.status(500).body(errorResponse);
+        }
+    }
+
     /**
      * Получение информации о сервере
      */
     @GetMapping("/info")
     public ResponseEntity<Map<String, Object>> getServerInfo() {
+        Runtime runtime = Runtime.getRuntime();
         Map<String, Object> info = new HashMap<>();
         info.put("status", "running");
         info.put("api_version", "1.0");
-        info.put("supported_operations", new String[]{"tensor_receive", "tensor_process"});
+        info.put("supported_operations", new String[]{"tensor_receive", "tensor_process", "matmul_block"});
+        info.put("max_memory", runtime.maxMemory());
+        info.put("available_processors", runtime.availableProcessors());
         return ResponseEntity.ok(info);
     }
+
+    /**
+     * Умножение матриц в построчном (row-major) представлении, порядок i-k-j
+     */
+    private static double[] multiply(double[] a, double[] b, int rows, int common, int cols) {
+        double[] result = new double[rows * cols];
+        for (int i = 0; i < rows; i++) {
+            int rowOffset = i * cols;
+            for (int k = 0; k < common; k++) {
+                double value = a[i * common + k];
+                int bOffset = k * cols;
+                for (int j = 0; j < cols; j++) {
+                    result[rowOffset + j] += value * b[bOffset + j];
+                }
+            }
+        }
+        return result;
+    }
 }
\ No newline at end of file
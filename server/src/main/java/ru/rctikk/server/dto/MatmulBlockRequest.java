@@ -0,0 +1,43 @@
+package ru.rctikk.server.dto;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Пара блоков матриц для вычисления одного частичного произведения A[i,k] x B[k,j]
+ */
+public class MatmulBlockRequest {
+    /**
+     * Максимальная длина массива результата в JVM
+     */
+    private static final long MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    @JsonProperty("a")
+    private TensorRequest a;
+
+    @JsonProperty("b")
+    private TensorRequest b;
+
+    // Конструкторы
+    public MatmulBlockRequest() {}
+
+    // Геттеры и сеттеры
+    public TensorRequest getA() { return a; }
+    public void setA(TensorRequest a) { this.a = a; }
+
+    public TensorRequest getB() { return b; }
+    public void setB(TensorRequest b) { this.b = b; }
+
+    // Валидация
+    @JsonIgnore
+    public boolean isValid() {
+        return a != null && b != null && isMatrix(a) && isMatrix(b) &&
+                a.getShape()[1] == b.getShape()[0] &&
+                (long) a.getShape()[0] * b.getShape()[1] <= MAX_ARRAY_LENGTH;
+    }
+
+    private static boolean isMatrix(TensorRequest tensor) {
+        return tensor.isValid() && tensor.getShape().length == 2 &&
+                tensor.getShape()[0] > 0 && tensor.getShape()[1] > 0 &&
+                (long) tensor.getShape()[0] * tensor.getShape()[1] == tensor.getData().length;
+    }
+}
@@ -1,4 +1,5 @@
 package ru.rctikk.server.dto;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.Arrays;
 
@@ -32,6 +33,7 @@ public class TensorRequest {
     public void setName(String name) { this.name = name; }
 
     // Валидация
+    @JsonIgnore
     public boolean isValid() {
         return shape != null && data != null &&
                 shape.length > 0 && data.length > 0;
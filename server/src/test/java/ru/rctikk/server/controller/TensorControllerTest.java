@@ -0,0 +1,81 @@
+package ru.rctikk.server.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import junit.framework.TestCase;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Тесты эндпоинта умножения блоков
+ */
+public class TensorControllerTest extends TestCase {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MockMvc mockMvc;
+
+    @Override
+    protected void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new TensorController()).build();
+    }
+
+    public void testMultiplyBlockReturnsProduct() throws Exception {
+        MockHttpServletResponse response = postBlock(
+                "{\"a\":{\"shape\":[2,3],\"data\":[1,2,3,4,5,6]}," +
+                        "\"b\":{\"shape\":[3,2],\"data\":[7,8,9,10,11,12]}}");
+
+        assertEquals(200, response.getStatus());
+        JsonNode result = objectMapper.readTree(response.getContentAsString()).get("result");
+        assertEquals("[2,2]", result.get("shape").toString());
+        assertEquals("[58.0,64.0,139.0,154.0]", result.get("data").toString());
+    }
+
+    public void testMultiplyBlockResultHasOnlyTensorFields() throws Exception {
+        MockHttpServletResponse response = postBlock(
+                "{\"a\":{\"shape\":[1,1],\"data\":[2]},\"b\":{\"shape\":[1,1],\"data\":[3]}}");
+
+        JsonNode result = objectMapper.readTree(response.getContentAsString()).get("result");
+        List<String> fields = new ArrayList<>();
+        result.fieldNames().forEachRemaining(fields::add);
+        fields.sort(null);
+        assertEquals(List.of("data", "dtype", "name", "shape"), fields);
+    }
+
+    public void testMultiplyBlockRejectsMismatchedShapes() throws Exception {
+        MockHttpServletResponse response = postBlock(
+                "{\"a\":{\"shape\":[2,2],\"data\":[1,2,3,4]},\"b\":{\"shape\":[3,1],\"data\":[1,2,3]}}");
+
+        assertEquals(400, response.getStatus());
+    }
+
+    public void testMultiplyBlockRejectsDataNotMatchingShape() throws Exception {
+        MockHttpServletResponse response = postBlock(
+                "{\"a\":{\"shape\":[2,2],\"data\":[1,2,3]},\"b\":{\"shape\":[2,1],\"data\":[1,2]}}");
+
+        assertEquals(400, response.getStatus());
+    }
+
+    public void testMultiplyBlockRejectsResultTooLargeForArray() throws Exception {
+        String column = "[" + String.join(",", Collections.nCopies(50_000, "1")) + "]";
+        MockHttpServletResponse response = postBlock(
+                "{\"a\":{\"shape\":[50000,1],\"data\":" + column + "}," +
+                        "\"b\":{\"shape\":[1,50000],\"data\":" + column + "}}");
+
+        assertEquals(400, response.getStatus());
+    }
+
+    private MockHttpServletResponse postBlock(String json) throws Exception {
+        return mockMvc.perform(post("/api/tensor/matmul-block")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andReturn()
+                .getResponse();
+    }
+}